@@ -1,9 +1,11 @@
 package com.company.gateway.exception;
 
 import org.springframework.boot.web.reactive.error.ErrorWebExceptionHandler;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
@@ -16,10 +18,23 @@ public class GlobalExceptionHandler implements ErrorWebExceptionHandler {
     public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
 
         ServerHttpResponse response = exchange.getResponse();
-        response.setStatusCode(org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR);
-        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        if (response.isCommitted()) {
+            return Mono.error(ex);
+        }
 
+        HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
         String jsonResponse = "{\"error\": \"GATEWAY_ERROR\", \"message\": \"Unexpected error occurred\"}";
+
+        // Route response-timeout exceeded (raised by NettyRoutingFilter)
+        if (ex instanceof ResponseStatusException responseStatusException
+                && responseStatusException.getStatusCode().value() == HttpStatus.GATEWAY_TIMEOUT.value()) {
+            status = HttpStatus.GATEWAY_TIMEOUT;
+            jsonResponse = "{\"error\": \"GATEWAY_TIMEOUT\", \"message\": \"Upstream service did not respond in time\"}";
+        }
+
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
         byte[] body = jsonResponse.getBytes(StandardCharsets.UTF_8);
 
         return response.writeWith(
@@ -0,0 +1,91 @@
+package com.company.gateway.filter;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Forwards the remaining time budget of a request to the backend services.
+ *
+ * The budget is the route's response-timeout metadata (milliseconds), or the
+ * global spring.cloud.gateway.httpclient.response-timeout when the route has
+ * none. A smaller budget sent by the client is kept. Backend services read the
+ * X-Request-Timeout-Ms header in the common module's DeadlineFilter.
+ */
+@Component
+public class DeadlinePropagationFilter implements GlobalFilter, Ordered {
+
+    public static final String DEADLINE_HEADER = "X-Request-Timeout-Ms";
+
+    @Autowired
+    private HttpClientProperties httpClientProperties;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Long budget = resolveBudget(exchange);
+        if (budget == null) {
+            return chain.filter(exchange);
+        }
+
+        ServerWebExchange mutated = exchange.mutate()
+                .request(request -> request.headers(headers ->
+                        headers.set(DEADLINE_HEADER, String.valueOf(budget))))
+                .build();
+
+        return chain.filter(mutated);
+    }
+
+    private Long resolveBudget(ServerWebExchange exchange) {
+        Long routeTimeout = getRouteTimeout(exchange);
+        Long clientBudget = parse(exchange.getRequest().getHeaders().getFirst(DEADLINE_HEADER));
+
+        if (routeTimeout == null) {
+            return clientBudget;
+        }
+        if (clientBudget == null) {
+            return routeTimeout;
+        }
+        return Math.min(routeTimeout, clientBudget);
+    }
+
+    private Long getRouteTimeout(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route != null) {
+            Object metadata = route.getMetadata().get(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR);
+            if (metadata != null) {
+                Long timeout = parse(metadata.toString());
+                // Negative response-timeout disables the timeout for the route
+                return timeout != null && timeout >= 0 ? timeout : null;
+            }
+        }
+
+        Duration globalTimeout = httpClientProperties.getResponseTimeout();
+        return globalTimeout != null ? globalTimeout.toMillis() : null;
+    }
+
+    private Long parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+}
@@ -0,0 +1,301 @@
+package com.company.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.http.client.HttpClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hedged upstream requests for idempotent GET routes (opt-in per route).
+ *
+ * The request is sent to the route's URI. If no response arrives within
+ * {@code delay}, or the primary attempt fails to connect, a duplicate is sent
+ * to one of the configured alternate {@code instances}. The first response
+ * wins and the other attempt is cancelled.
+ *
+ * Hedges are limited by a per-route RetryBudget, so they never more than
+ * double the load on a backend. Non-GET requests pass through untouched.
+ *
+ * Usage (application.properties):
+ * spring.cloud.gateway.routes[4].filters[1].name=Hedge
+ * spring.cloud.gateway.routes[4].filters[1].args.delay=50ms
+ * spring.cloud.gateway.routes[4].filters[1].args.instances=http://localhost:9083
+ *
+ * Metrics:
+ * - gateway.hedge.requests{route, winner=primary|hedge}
+ * - gateway.hedge.sent{route}
+ * - gateway.hedge.budget.exhausted{route}
+ * - gateway.hedge.budget.tokens{route}
+ */
+@Component
+public class HedgeGatewayFilterFactory extends AbstractGatewayFilterFactory<HedgeGatewayFilterFactory.Config> {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(HedgeGatewayFilterFactory.class);
+
+    // Run after RouteToRequestUrlFilter has resolved the upstream URL
+    private static final int HEDGE_FILTER_ORDER = RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER + 1;
+
+    @Autowired
+    private HttpClient httpClient;
+
+    @Autowired
+    private HttpClientProperties httpClientProperties;
+
+    @Autowired
+    private ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private WebClient webClient;
+
+    public HedgeGatewayFilterFactory() {
+        super(Config.class);
+    }
+
+    @PostConstruct
+    public void init() {
+        webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String routeId = config.getRouteId() != null ? config.getRouteId() : "unknown";
+        List<URI> instances = parseInstances(config.getInstances());
+        RetryBudget budget = new RetryBudget(config.getBudgetRatio(), config.getBudgetMaxTokens());
+        AtomicInteger nextInstance = new AtomicInteger();
+
+        Counter primaryWins = meterRegistry.counter("gateway.hedge.requests", "route", routeId, "winner", "primary");
+        Counter hedgeWins = meterRegistry.counter("gateway.hedge.requests", "route", routeId, "winner", "hedge");
+        Counter hedgesSent = meterRegistry.counter("gateway.hedge.sent", "route", routeId);
+        Counter budgetExhausted = meterRegistry.counter("gateway.hedge.budget.exhausted", "route", routeId);
+        Gauge.builder("gateway.hedge.budget.tokens", budget, RetryBudget::getAvailableTokens)
+                .tag("route", routeId)
+                .register(meterRegistry);
+
+        GatewayFilter filter = (exchange, chain) -> {
+            URI requestUrl = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+            if (exchange.getRequest().getMethod() != HttpMethod.GET || requestUrl == null) {
+                return chain.filter(exchange);
+            }
+
+            URI hedgeUrl = selectHedgeUrl(requestUrl, instances, nextInstance);
+            if (hedgeUrl == null) {
+                return chain.filter(exchange);
+            }
+
+            budget.deposit();
+            ServerWebExchangeUtils.setAlreadyRouted(exchange);
+
+            HttpHeaders requestHeaders = filterRequestHeaders(exchange);
+            Sinks.Empty<Void> primaryFailed = Sinks.empty();
+
+            Mono<Attempt> primary = send(requestUrl, requestHeaders, false)
+                    .doOnError(e -> primaryFailed.tryEmitEmpty());
+
+            // Fire the hedge after the delay, or immediately when the primary fails
+            Mono<Attempt> hedge = Mono.firstWithSignal(Mono.delay(config.getDelay()).then(), primaryFailed.asMono())
+                    .then(Mono.defer(() -> {
+                        if (!budget.tryWithdraw()) {
+                            budgetExhausted.increment();
+                            return Mono.error(new IllegalStateException("Hedge budget exhausted"));
+                        }
+                        hedgesSent.increment();
+                        return send(hedgeUrl, requestHeaders, true);
+                    }));
+
+            return Mono.firstWithValue(primary, hedge)
+                    .timeout(getResponseTimeout(exchange))
+                    .onErrorMap(TimeoutException.class,
+                            e -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, e.getMessage(), e))
+                    .flatMap(attempt -> {
+                        (attempt.hedge ? hedgeWins : primaryWins).increment();
+                        return writeResponse(exchange, attempt.response);
+                    });
+        };
+
+        return new OrderedGatewayFilter(filter, HEDGE_FILTER_ORDER);
+    }
+
+    private Mono<Attempt> send(URI url, HttpHeaders headers, boolean hedge) {
+        return webClient.get()
+                .uri(url)
+                .headers(h -> h.addAll(headers))
+                .exchangeToMono(response -> response.toEntity(byte[].class))
+                .map(response -> new Attempt(response, hedge))
+                .doOnError(e -> log.debug("[HEDGE] {} attempt to {} failed: {}",
+                        hedge ? "hedge" : "primary", url, e.getMessage()));
+    }
+
+    private HttpHeaders filterRequestHeaders(ServerWebExchange exchange) {
+        HttpHeaders filtered = HttpHeadersFilter.filterRequest(headersFiltersProvider.getIfAvailable(), exchange);
+        filtered.remove(HttpHeaders.HOST);
+        return filtered;
+    }
+
+    private Mono<Void> writeResponse(ServerWebExchange exchange, ResponseEntity<byte[]> upstream) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(upstream.getStatusCode());
+
+        HttpHeaders filtered = HttpHeadersFilter.filter(headersFiltersProvider.getIfAvailable(),
+                upstream.getHeaders(), exchange, HttpHeadersFilter.Type.RESPONSE);
+        response.getHeaders().putAll(filtered);
+        response.getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+
+        byte[] body = upstream.getBody() != null ? upstream.getBody() : new byte[0];
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private URI selectHedgeUrl(URI requestUrl, List<URI> instances, AtomicInteger nextInstance) {
+        List<URI> candidates = new ArrayList<>(instances.size());
+        for (URI instance : instances) {
+            if (!(instance.getHost().equalsIgnoreCase(requestUrl.getHost()) && instance.getPort() == requestUrl.getPort())) {
+                candidates.add(instance);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        URI instance = candidates.get(Math.floorMod(nextInstance.getAndIncrement(), candidates.size()));
+        return UriComponentsBuilder.fromUri(requestUrl)
+                .scheme(instance.getScheme())
+                .host(instance.getHost())
+                .port(instance.getPort())
+                .build(ServerWebExchangeUtils.containsEncodedParts(requestUrl))
+                .toUri();
+    }
+
+    private Duration getResponseTimeout(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route != null) {
+            Object timeout = route.getMetadata().get(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR);
+            if (timeout != null) {
+                long millis = Long.parseLong(timeout.toString());
+                if (millis >= 0) {
+                    return Duration.ofMillis(millis);
+                }
+            }
+        }
+        Duration globalTimeout = httpClientProperties.getResponseTimeout();
+        return globalTimeout != null ? globalTimeout : Duration.ofSeconds(30);
+    }
+
+    private List<URI> parseInstances(List<String> instances) {
+        List<URI> uris = new ArrayList<>();
+        for (String instance : instances) {
+            if (instance != null && !instance.isBlank()) {
+                uris.add(URI.create(instance.trim()));
+            }
+        }
+        return uris;
+    }
+
+    private static final class Attempt {
+        private final ResponseEntity<byte[]> response;
+        private final boolean hedge;
+
+        private Attempt(ResponseEntity<byte[]> response, boolean hedge) {
+            this.response = response;
+            this.hedge = hedge;
+        }
+    }
+
+    public static class Config implements HasRouteId {
+
+        private String routeId;
+
+        // Wait this long for the primary before sending the hedge
+        private Duration delay = Duration.ofMillis(50);
+
+        // Alternate base URIs of the same service, e.g. http://localhost:9083
+        private List<String> instances = new ArrayList<>();
+
+        // Hedge tokens earned per original request (max 1.0 = at most double load)
+        private double budgetRatio = 0.2;
+
+        // Burst of hedges allowed on top of the ratio
+        private int budgetMaxTokens = 10;
+
+        @Override
+        public String getRouteId() {
+            return routeId;
+        }
+
+        @Override
+        public void setRouteId(String routeId) {
+            this.routeId = routeId;
+        }
+
+        public Duration getDelay() {
+            return delay;
+        }
+
+        public void setDelay(Duration delay) {
+            this.delay = delay;
+        }
+
+        public List<String> getInstances() {
+            return instances;
+        }
+
+        public void setInstances(List<String> instances) {
+            this.instances = instances;
+        }
+
+        public double getBudgetRatio() {
+            return budgetRatio;
+        }
+
+        public void setBudgetRatio(double budgetRatio) {
+            this.budgetRatio = budgetRatio;
+        }
+
+        public int getBudgetMaxTokens() {
+            return budgetMaxTokens;
+        }
+
+        public void setBudgetMaxTokens(int budgetMaxTokens) {
+            this.budgetMaxTokens = budgetMaxTokens;
+        }
+    }
+}
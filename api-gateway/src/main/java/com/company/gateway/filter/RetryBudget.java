@@ -0,0 +1,56 @@
+package com.company.gateway.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that limits extra upstream requests (hedges and retries).
+ *
+ * Every original request deposits {@code ratio} tokens and every extra request
+ * withdraws one. With ratio capped at 1.0, extra requests can never exceed the
+ * number of original requests (plus the small {@code maxTokens} burst), so
+ * hedging can at most double the load on a backend.
+ *
+ * Tokens are stored in thousandths to stay lock-free on an AtomicLong.
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final AtomicLong balance = new AtomicLong();
+
+    public RetryBudget(double ratio, int maxTokens) {
+        double clampedRatio = Math.max(0.0, Math.min(1.0, ratio));
+        this.depositPerRequest = Math.round(clampedRatio * SCALE);
+        this.maxBalance = Math.max(1, maxTokens) * SCALE;
+    }
+
+    /**
+     * Record an original request
+     */
+    public void deposit() {
+        balance.accumulateAndGet(depositPerRequest, (current, amount) -> Math.min(maxBalance, current + amount));
+    }
+
+    /**
+     * Try to spend one token for an extra request
+     *
+     * @return true if the extra request may be sent
+     */
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    public double getAvailableTokens() {
+        return (double) balance.get() / SCALE;
+    }
+}
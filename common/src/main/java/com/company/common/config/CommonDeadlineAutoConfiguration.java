@@ -0,0 +1,41 @@
+package com.company.common.config;
+
+import com.company.common.deadline.DeadlineAwareJpaTransactionManager;
+import com.company.common.deadline.DeadlineFilter;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * Auto Configuration for Request Deadline Propagation
+ *
+ * Services that depend on the common module will automatically get:
+ * - DeadlineFilter (reads X-Request-Timeout-Ms forwarded by the gateway)
+ * - DeadlineAwareJpaTransactionManager (only when JPA is on the classpath)
+ *
+ * Registered before HibernateJpaAutoConfiguration so that it replaces
+ * the default JpaTransactionManager.
+ *
+ * Disable the transaction timeout part with:
+ * deadline.transaction-timeout.enabled=false
+ */
+@AutoConfiguration(beforeName = "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration")
+@Import(DeadlineFilter.class)
+public class CommonDeadlineAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.orm.jpa.JpaTransactionManager")
+    @ConditionalOnProperty(prefix = "deadline.transaction-timeout", name = "enabled", matchIfMissing = true)
+    static class DeadlineTransactionManagerConfiguration {
+
+        @Bean
+        public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new DeadlineAwareJpaTransactionManager(entityManagerFactory);
+        }
+    }
+}
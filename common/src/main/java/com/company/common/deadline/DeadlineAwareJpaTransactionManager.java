@@ -0,0 +1,45 @@
+package com.company.common.deadline;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+/**
+ * JPA Transaction Manager that honours the request deadline
+ *
+ * Every transaction started while a RequestDeadline is bound gets a timeout
+ * no longer than the remaining budget. Spring applies that timeout to each
+ * JDBC query (Statement#setQueryTimeout), so the database stops working for
+ * clients that already gave up. If the deadline has passed, the transaction
+ * is not started at all.
+ *
+ * JDBC query timeouts have second granularity, so the budget is rounded up.
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+    public DeadlineAwareJpaTransactionManager(EntityManagerFactory emf) {
+        super(emf);
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int configuredTimeout = super.determineTimeout(definition);
+
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null) {
+            return configuredTimeout;
+        }
+
+        long remainingMillis = deadline.remainingMillis();
+        if (remainingMillis <= 0) {
+            throw new TransactionTimedOutException("Request deadline exceeded before transaction start");
+        }
+
+        int remainingSeconds = (int) Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000);
+        if (configuredTimeout == TransactionDefinition.TIMEOUT_DEFAULT) {
+            return remainingSeconds;
+        }
+        return Math.min(configuredTimeout, remainingSeconds);
+    }
+}
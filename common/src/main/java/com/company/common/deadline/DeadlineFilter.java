@@ -0,0 +1,78 @@
+package com.company.common.deadline;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Deadline Filter (Shared across all services)
+ *
+ * Reads the remaining time budget forwarded by the API Gateway and:
+ * 1. Rejects requests whose deadline already passed with 504 (no work is done)
+ * 2. Binds the deadline to the current thread for downstream code
+ *    (JDBC transactions, outbound auth-service call)
+ * 3. Turns failures caused by an exceeded deadline into 504 instead of 500
+ *
+ * Runs before Spring Security and JwtTokenExtractionFilter so that expired
+ * requests never reach auth-service or the database.
+ *
+ * @author Platform Team
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private static final String DEADLINE_EXCEEDED_BODY = "{\"error\":\"Request deadline exceeded\"}";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestDeadline deadline = RequestDeadline.parse(request.getHeader(RequestDeadline.HEADER));
+
+        // No budget forwarded - process as before
+        if (deadline == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (deadline.isExpired()) {
+            logger.debug("Request deadline exceeded on arrival: " + request.getRequestURI());
+            writeDeadlineExceeded(response);
+            return;
+        }
+
+        request.setAttribute(RequestDeadline.ATTRIBUTE, deadline);
+        RequestDeadline.bind(deadline);
+        try {
+            filterChain.doFilter(request, response);
+        } catch (ServletException | RuntimeException e) {
+            // Query/transaction timeouts triggered by the deadline surface as exceptions
+            if (deadline.isExpired() && !response.isCommitted()) {
+                logger.warn("Request deadline exceeded while processing " + request.getRequestURI()
+                        + ": " + e.getMessage());
+                writeDeadlineExceeded(response);
+                return;
+            }
+            throw e;
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private void writeDeadlineExceeded(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.GATEWAY_TIMEOUT.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(DEADLINE_EXCEEDED_BODY);
+    }
+}
@@ -0,0 +1,82 @@
+package com.company.common.deadline;
+
+/**
+ * Request Deadline (Shared across all services)
+ *
+ * The API Gateway forwards the remaining time budget of a request in the
+ * X-Request-Timeout-Ms header (milliseconds). This class turns that budget
+ * into an absolute deadline on the local monotonic clock, so clock skew
+ * between hosts does not matter.
+ *
+ * The deadline of the request being processed is bound to the current thread
+ * by DeadlineFilter and can be read anywhere via RequestDeadline.current().
+ *
+ * @author Platform Team
+ * @version 1.0
+ */
+public final class RequestDeadline {
+
+    public static final String HEADER = "X-Request-Timeout-Ms";
+    public static final String ATTRIBUTE = "requestDeadline";
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private RequestDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Create a deadline that expires after the given budget
+     *
+     * @param budgetMillis remaining time budget in milliseconds
+     * @return RequestDeadline relative to now
+     */
+    public static RequestDeadline after(long budgetMillis) {
+        return new RequestDeadline(System.nanoTime() + budgetMillis * 1_000_000L);
+    }
+
+    /**
+     * Parse the X-Request-Timeout-Ms header value
+     *
+     * @param headerValue remaining budget in milliseconds
+     * @return RequestDeadline or null if header is missing or malformed
+     */
+    public static RequestDeadline parse(String headerValue) {
+        if (headerValue == null || headerValue.isBlank()) {
+            return null;
+        }
+        try {
+            return after(Long.parseLong(headerValue.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return milliseconds left until the deadline (negative once passed)
+     */
+    public long remainingMillis() {
+        return (deadlineNanos - System.nanoTime()) / 1_000_000L;
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @return deadline of the request handled by the current thread, or null
+     */
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    static void bind(RequestDeadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
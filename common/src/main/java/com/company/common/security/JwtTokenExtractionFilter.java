@@ -1,5 +1,6 @@
 package com.company.common.security;
 
+import com.company.common.deadline.RequestDeadline;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,6 +26,9 @@ import java.util.Map;
  * 2. Calls auth-service to validate and extract user info
  * 3. Sets userId and username as request attributes
  *
+ * If the request carries a deadline (see DeadlineFilter), the auth-service
+ * call is skipped once it has passed and the remaining budget is forwarded.
+ *
  * BEST PRACTICE:
  * - Centralized in common module
  * - Used by order-service, user-service, and any other backend service
@@ -79,6 +83,12 @@ public class JwtTokenExtractionFilter extends OncePerRequestFilter {
             return;
         }
 
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline != null && deadline.isExpired()) {
+            logger.warn("Request deadline exceeded - skipping token validation");
+            return;
+        }
+
         try {
             // Prepare request to auth-service
             Map<String, String> requestBody = new HashMap<>();
@@ -86,6 +96,9 @@ public class JwtTokenExtractionFilter extends OncePerRequestFilter {
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
+            if (deadline != null) {
+                headers.set(RequestDeadline.HEADER, String.valueOf(deadline.remainingMillis()));
+            }
 
             HttpEntity<Map<String, String>> httpEntity = new HttpEntity<>(requestBody, headers);
 